@@ -0,0 +1,202 @@
+package dev.mars.benchmarks;
+
+import dev.mars.config.GenericApiConfig;
+import dev.mars.generic.config.ApiEndpointConfig;
+import dev.mars.generic.config.ConfigurationLoaderFactory;
+import dev.mars.generic.config.ConfigurationLoaderInterface;
+import dev.mars.generic.config.DatabaseConfig;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory H2 stock trades database and endpoint configuration shared by the benchmarks
+ */
+public final class BenchmarkEnvironment {
+
+    public static final String DATABASE_NAME = "bench-db";
+    public static final String PAGED_ENDPOINT = "trades-by-symbol";
+    public static final String SINGLE_ENDPOINT = "trade-by-id";
+    public static final String KEYSET_ENDPOINT = "trades-by-symbol-keyset";
+    public static final String[] SYMBOLS = {"AAPL", "GOOGL", "MSFT", "AMZN", "TSLA"};
+
+    private static final String CREATE_STOCK_TRADES_TABLE = """
+        CREATE TABLE IF NOT EXISTS stock_trades (
+            id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            symbol VARCHAR(10) NOT NULL,
+            trade_type VARCHAR(4) NOT NULL,
+            quantity INTEGER NOT NULL,
+            price DECIMAL(10,2) NOT NULL,
+            total_value DECIMAL(15,2) NOT NULL,
+            trade_date_time TIMESTAMP NOT NULL,
+            trader_id VARCHAR(50) NOT NULL,
+            exchange VARCHAR(20) NOT NULL
+        )
+        """;
+
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * Database configuration for a named in-memory H2 database that lives until the JVM exits
+     */
+    public static DatabaseConfig createDatabaseConfig(String databaseName, int maximumPoolSize) {
+        DatabaseConfig.PoolConfig pool = new DatabaseConfig.PoolConfig();
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setMinimumIdle(maximumPoolSize);
+        // H2 caches the results of repeated identical queries, which would hide the cost of running them
+        return new DatabaseConfig(databaseName, "Benchmark database",
+                "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0", "sa", "", "org.h2.Driver", pool);
+    }
+
+    /**
+     * Query configurations for the stock trades endpoints
+     */
+    public static Map<String, QueryConfig> createQueries() {
+        Map<String, QueryConfig> queries = new HashMap<>();
+        queries.put("stock-trades-by-symbol", new QueryConfig("stock-trades-by-symbol", "Trades by symbol",
+                "SELECT * FROM stock_trades WHERE symbol = ? ORDER BY trade_date_time DESC LIMIT ? OFFSET ?",
+                DATABASE_NAME,
+                List.of(new QueryConfig.QueryParameter("symbol", "STRING", true),
+                        new QueryConfig.QueryParameter("limit", "INTEGER", true),
+                        new QueryConfig.QueryParameter("offset", "INTEGER", true))));
+        queries.put("stock-trades-count-by-symbol", new QueryConfig("stock-trades-count-by-symbol",
+                "Count trades by symbol", "SELECT COUNT(*) FROM stock_trades WHERE symbol = ?", DATABASE_NAME,
+                List.of(new QueryConfig.QueryParameter("symbol", "STRING", true))));
+        queries.put("stock-trades-by-id", new QueryConfig("stock-trades-by-id", "Trade by id",
+                "SELECT * FROM stock_trades WHERE id = ?", DATABASE_NAME,
+                List.of(new QueryConfig.QueryParameter("id", "LONG", true))));
+        return queries;
+    }
+
+    /**
+     * Endpoint configurations for the stock trades endpoints
+     */
+    public static Map<String, ApiEndpointConfig> createEndpoints() {
+        Map<String, ApiEndpointConfig> endpoints = new HashMap<>();
+
+        ApiEndpointConfig paged = new ApiEndpointConfig();
+        paged.setPath("/api/bench/trades/symbol/{symbol}");
+        paged.setMethod("GET");
+        paged.setQuery("stock-trades-by-symbol");
+        paged.setCountQuery("stock-trades-count-by-symbol");
+        ApiEndpointConfig.PaginationConfig pagination = new ApiEndpointConfig.PaginationConfig();
+        pagination.setEnabled(true);
+        pagination.setDefaultSize(20);
+        pagination.setMaxSize(1000);
+        paged.setPagination(pagination);
+        endpoints.put(PAGED_ENDPOINT, paged);
+
+        ApiEndpointConfig keyset = new ApiEndpointConfig();
+        keyset.setPath("/api/bench/trades/symbol/{symbol}/keyset");
+        keyset.setMethod("GET");
+        keyset.setQuery("stock-trades-by-symbol");
+        keyset.setCountQuery("stock-trades-count-by-symbol");
+        ApiEndpointConfig.PaginationConfig keysetPagination = new ApiEndpointConfig.PaginationConfig();
+        keysetPagination.setEnabled(true);
+        keysetPagination.setDefaultSize(20);
+        keysetPagination.setMaxSize(1000);
+        keysetPagination.setMode(ApiEndpointConfig.PaginationConfig.MODE_KEYSET);
+        keysetPagination.setSortColumn("trade_date_time");
+        keysetPagination.setSortType("TIMESTAMP");
+        keyset.setPagination(keysetPagination);
+        endpoints.put(KEYSET_ENDPOINT, keyset);
+
+        ApiEndpointConfig single = new ApiEndpointConfig();
+        single.setPath("/api/bench/trades/{id}");
+        single.setMethod("GET");
+        single.setQuery("stock-trades-by-id");
+        endpoints.put(SINGLE_ENDPOINT, single);
+
+        return endpoints;
+    }
+
+    /**
+     * Create a configuration manager that serves the given configurations instead of reading YAML or database sources
+     */
+    public static EndpointConfigurationManager createConfigurationManager(Map<String, DatabaseConfig> databases,
+                                                                          Map<String, QueryConfig> queries,
+                                                                          Map<String, ApiEndpointConfig> endpoints) {
+        ConfigurationLoaderInterface loader = new ConfigurationLoaderInterface() {
+            @Override
+            public Map<String, DatabaseConfig> loadDatabaseConfigurations() {
+                return databases;
+            }
+
+            @Override
+            public Map<String, QueryConfig> loadQueryConfigurations() {
+                return queries;
+            }
+
+            @Override
+            public Map<String, ApiEndpointConfig> loadEndpointConfigurations() {
+                return endpoints;
+            }
+        };
+
+        ConfigurationLoaderFactory factory = new ConfigurationLoaderFactory(new GenericApiConfig(), null, null) {
+            @Override
+            public ConfigurationLoaderInterface createConfigurationLoader() {
+                return loader;
+            }
+        };
+        return new EndpointConfigurationManager(factory);
+    }
+
+    /**
+     * Create a configuration manager with the stock trades benchmark configuration
+     */
+    public static EndpointConfigurationManager createConfigurationManager(int maximumPoolSize) {
+        return createConfigurationManager(
+                Map.of(DATABASE_NAME, createDatabaseConfig(DATABASE_NAME, maximumPoolSize)),
+                createQueries(), createEndpoints());
+    }
+
+    /**
+     * Create the stock trades table and insert rows spread evenly over the benchmark symbols
+     */
+    public static void populateStockTrades(DatabaseConnectionManager connectionManager, String databaseName,
+                                           int rowCount) throws SQLException {
+        try (Connection connection = connectionManager.getConnection(databaseName)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STOCK_TRADES_TABLE);
+                // Matches the page ordering so that both pagination modes read pages in index order;
+                // H2 does not sort from an index that leads with the symbol equality column
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_stock_trades_time "
+                        + "ON stock_trades(trade_date_time DESC, id DESC)");
+                statement.execute("DELETE FROM stock_trades");
+            }
+
+            String insert = "INSERT INTO stock_trades (symbol, trade_type, quantity, price, total_value, "
+                    + "trade_date_time, trader_id, exchange) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 30);
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                for (int i = 0; i < rowCount; i++) {
+                    BigDecimal price = BigDecimal.valueOf(100 + i % 400, 0).add(BigDecimal.valueOf(i % 100, 2));
+                    int quantity = 1 + i % 500;
+                    statement.setString(1, SYMBOLS[i % SYMBOLS.length]);
+                    statement.setString(2, i % 2 == 0 ? "BUY" : "SELL");
+                    statement.setInt(3, quantity);
+                    statement.setBigDecimal(4, price);
+                    statement.setBigDecimal(5, price.multiply(BigDecimal.valueOf(quantity)));
+                    statement.setTimestamp(6, Timestamp.valueOf(start.plusMinutes(i)));
+                    statement.setString(7, "TRADER" + (i % 50));
+                    statement.setString(8, i % 3 == 0 ? "NASDAQ" : "NYSE");
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    }
+}
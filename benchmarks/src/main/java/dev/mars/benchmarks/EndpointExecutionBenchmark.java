@@ -0,0 +1,165 @@
+package dev.mars.benchmarks;
+
+import dev.mars.common.exception.ApiException;
+import dev.mars.generic.GenericApiService;
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledEndpoint;
+import dev.mars.generic.compiled.CompiledQuery;
+import dev.mars.generic.config.ApiEndpointConfig;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.GenericResponse;
+import dev.mars.generic.model.QueryParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request configuration resolution used before endpoints were compiled
+ * (Optional lookups, QueryParameter lists, type dispatch on strings) with the compiled endpoint path.
+ * The *Binding benchmarks isolate parameter resolution; the *Endpoint benchmarks include the H2 round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointExecutionBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private DatabaseConnectionManager connectionManager;
+    private EndpointConfigurationManager configurationManager;
+    private GenericRepository repository;
+    private LegacyQueryExecutor legacyExecutor;
+    private GenericApiService apiService;
+    private Map<String, Object> pagedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        configurationManager = BenchmarkEnvironment.createConfigurationManager(4);
+        connectionManager = new DatabaseConnectionManager(configurationManager);
+        BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 5000);
+        repository = new GenericRepository(connectionManager);
+        legacyExecutor = new LegacyQueryExecutor(connectionManager);
+        apiService = new GenericApiService(repository, configurationManager);
+
+        pagedRequest = new HashMap<>();
+        pagedRequest.put("symbol", "AAPL");
+        pagedRequest.put("page", "2");
+        pagedRequest.put("size", String.valueOf(pageSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionManager.shutdown();
+    }
+
+    @Benchmark
+    public List<QueryParameter> legacyBinding() {
+        ApiEndpointConfig endpointConfig = configurationManager.getEndpointConfig(BenchmarkEnvironment.PAGED_ENDPOINT)
+                .orElseThrow(() -> ApiException.notFound("Endpoint not found"));
+        QueryConfig queryConfig = configurationManager.getQueryConfig(endpointConfig.getQuery())
+                .orElseThrow(() -> ApiException.internalError("Query not found"));
+        List<QueryParameter> parameters = legacyProcessParameters(endpointConfig, queryConfig, pagedRequest);
+        // Typed values were converted again on every bind
+        for (QueryParameter parameter : parameters) {
+            parameter.getTypedValue();
+        }
+        return parameters;
+    }
+
+    @Benchmark
+    public Object[] compiledBinding() {
+        CompiledEndpoint endpoint = configurationManager.getCompiledEndpoint(BenchmarkEnvironment.PAGED_ENDPOINT);
+        int page = Integer.parseInt((String) pagedRequest.get("page"));
+        int size = Integer.parseInt((String) pagedRequest.get("size"));
+        return endpoint.getQuery().resolveValues(pagedRequest, size, page * size);
+    }
+
+    @Benchmark
+    public GenericResponse legacyPaginatedEndpoint() {
+        ApiEndpointConfig endpointConfig = configurationManager.getEndpointConfig(BenchmarkEnvironment.PAGED_ENDPOINT)
+                .orElseThrow(() -> ApiException.notFound("Endpoint not found"));
+        QueryConfig queryConfig = configurationManager.getQueryConfig(endpointConfig.getQuery())
+                .orElseThrow(() -> ApiException.internalError("Query not found"));
+        List<QueryParameter> parameters = legacyProcessParameters(endpointConfig, queryConfig, pagedRequest);
+
+        int page = Integer.parseInt((String) pagedRequest.get("page"));
+        int size = Integer.parseInt((String) pagedRequest.get("size"));
+        List<Map<String, Object>> results = legacyExecutor.executeQuery(queryConfig, parameters);
+
+        QueryConfig countQueryConfig = configurationManager.getQueryConfig(endpointConfig.getCountQuery())
+                .orElseThrow(() -> ApiException.internalError("Count query not found"));
+        List<QueryParameter> countParameters = new ArrayList<>();
+        for (QueryParameter parameter : parameters) {
+            if (!"limit".equals(parameter.getName()) && !"offset".equals(parameter.getName())) {
+                countParameters.add(QueryParameter.of(parameter.getName(), parameter.getValue(), parameter.getType(),
+                        countParameters.size() + 1));
+            }
+        }
+        long totalElements = legacyExecutor.executeCountQuery(countQueryConfig, countParameters);
+        return GenericResponse.paged(results, page, size, totalElements);
+    }
+
+    @Benchmark
+    public GenericResponse compiledPaginatedEndpoint() {
+        return apiService.executeEndpoint(BenchmarkEnvironment.PAGED_ENDPOINT, pagedRequest);
+    }
+
+    @Benchmark
+    public GenericResponse compiledQueryOnly() {
+        CompiledEndpoint endpoint = configurationManager.getCompiledEndpoint(BenchmarkEnvironment.PAGED_ENDPOINT);
+        CompiledQuery query = endpoint.getQuery();
+        Object[] values = query.resolveValues(pagedRequest, pageSize, 2 * pageSize);
+        return GenericResponse.list(repository.executeQuery(query, values));
+    }
+
+    /**
+     * Parameter processing as performed per request before endpoints were compiled
+     */
+    private static List<QueryParameter> legacyProcessParameters(ApiEndpointConfig endpointConfig,
+                                                                QueryConfig queryConfig,
+                                                                Map<String, Object> requestParameters) {
+        List<QueryParameter> queryParameters = new ArrayList<>();
+        Map<String, Object> processedParams = new HashMap<>(requestParameters);
+
+        if (endpointConfig.getPagination() != null && endpointConfig.getPagination().isEnabled()) {
+            int page = Integer.parseInt((String) processedParams.get("page"));
+            int size = Integer.parseInt((String) processedParams.get("size"));
+            processedParams.put("limit", size);
+            processedParams.put("offset", page * size);
+        }
+
+        int position = 1;
+        for (QueryConfig.QueryParameter queryParam : queryConfig.getParameters()) {
+            Object value = processedParams.get(queryParam.getName());
+            if (value == null && queryParam.isRequired()) {
+                throw ApiException.badRequest("Required parameter missing: " + queryParam.getName());
+            }
+            if (value != null) {
+                queryParameters.add(QueryParameter.of(queryParam.getName(), value, queryParam.getType(), position++));
+            }
+        }
+        return queryParameters;
+    }
+}
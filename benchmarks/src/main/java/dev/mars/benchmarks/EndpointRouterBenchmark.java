@@ -0,0 +1,114 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.config.ApiEndpointConfig;
+import dev.mars.generic.routing.EndpointRouter;
+import dev.mars.generic.routing.RouteMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route lookup of configured endpoints as the number of endpoints grows.
+ * Each resource has a list route, an id route, a literal route beside the id route and a nested route,
+ * and lookups cycle through the resources so that they do not hit the same trie path every time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndpointRouterBenchmark {
+
+    private static final int ROUTES_PER_RESOURCE = 4;
+    private static final int LOOKUP_PATHS = 1024;
+
+    @Param({"1000", "10000"})
+    public int endpoints;
+
+    private EndpointRouter router;
+    private String[] literalPaths;
+    private String[] parameterPaths;
+    private String[] nestedPaths;
+    private String[] missingPaths;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int resources = endpoints / ROUTES_PER_RESOURCE;
+        Map<String, ApiEndpointConfig> configs = new LinkedHashMap<>();
+        for (int i = 0; i < resources; i++) {
+            String base = "/api/generic/resource-" + i;
+            configs.put("resource-" + i + "-list", endpoint(base));
+            configs.put("resource-" + i + "-by-id", endpoint(base + "/{id}"));
+            configs.put("resource-" + i + "-by-name", endpoint(base + "/by-name/{name}"));
+            configs.put("resource-" + i + "-items", endpoint(base + "/{id}/items/{itemId}"));
+        }
+        router = EndpointRouter.build(configs);
+
+        literalPaths = new String[LOOKUP_PATHS];
+        parameterPaths = new String[LOOKUP_PATHS];
+        nestedPaths = new String[LOOKUP_PATHS];
+        missingPaths = new String[LOOKUP_PATHS];
+        for (int i = 0; i < LOOKUP_PATHS; i++) {
+            String base = "/api/generic/resource-" + (int) ((long) i * resources / LOOKUP_PATHS);
+            literalPaths[i] = base;
+            parameterPaths[i] = base + "/" + (1000 + i);
+            nestedPaths[i] = base + "/" + (1000 + i) + "/items/" + i;
+            missingPaths[i] = "/api/generic/unknown-" + i + "/" + i;
+        }
+    }
+
+    @Benchmark
+    public RouteMatch literalRoute() {
+        return router.match("GET", literalPaths[nextIndex()]);
+    }
+
+    @Benchmark
+    public RouteMatch parameterRoute() {
+        return router.match("GET", parameterPaths[nextIndex()]);
+    }
+
+    @Benchmark
+    public RouteMatch nestedParameterRoute() {
+        return router.match("GET", nestedPaths[nextIndex()]);
+    }
+
+    @Benchmark
+    public RouteMatch missingRoute() {
+        return router.match("GET", missingPaths[nextIndex()]);
+    }
+
+    @Benchmark
+    public EndpointRouter buildRouter() {
+        Map<String, ApiEndpointConfig> configs = new LinkedHashMap<>();
+        for (int i = 0; i < endpoints; i++) {
+            configs.put("endpoint-" + i, endpoint("/api/generic/endpoint-" + i + "/{id}"));
+        }
+        return EndpointRouter.build(configs);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (LOOKUP_PATHS - 1);
+        return next;
+    }
+
+    private static ApiEndpointConfig endpoint(String path) {
+        ApiEndpointConfig config = new ApiEndpointConfig();
+        config.setPath(path);
+        config.setMethod("GET");
+        return config;
+    }
+}
@@ -0,0 +1,182 @@
+package dev.mars.benchmarks;
+
+import dev.mars.common.exception.ApiException;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.database.StatementRegistry;
+import dev.mars.generic.model.QueryParameter;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query execution as GenericRepository performed it before queries were compiled: the parameter list is sorted and
+ * each value bound by a type dispatch on strings for every call. Kept as the baseline the compiled path is measured
+ * against; rows are read and statements tracked as the repository does, so only the binding differs.
+ */
+final class LegacyQueryExecutor {
+
+    private final DatabaseConnectionManager connectionManager;
+
+    LegacyQueryExecutor(DatabaseConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Execute a query and return results as list of maps
+     */
+    List<Map<String, Object>> executeQuery(QueryConfig queryConfig, List<QueryParameter> parameters) {
+        String databaseName = queryConfig.getDatabase();
+        try (Connection connection = connectionManager.getConnection(databaseName);
+             PreparedStatement statement = connection.prepareStatement(queryConfig.getSql());
+             StatementRegistry.Registration registration = StatementRegistry.track(statement, timeoutSeconds(queryConfig))) {
+
+            setParameters(statement, parameters);
+
+            try (ResultSet resultSet = execute(databaseName, statement)) {
+                return readRows(resultSet);
+            }
+
+        } catch (SQLException e) {
+            throw ApiException.internalError("Failed to execute query: " + queryConfig.getName(), e);
+        }
+    }
+
+    /**
+     * Execute a count query and return the count value
+     */
+    long executeCountQuery(QueryConfig queryConfig, List<QueryParameter> parameters) {
+        String databaseName = queryConfig.getDatabase();
+        try (Connection connection = connectionManager.getConnection(databaseName);
+             PreparedStatement statement = connection.prepareStatement(queryConfig.getSql());
+             StatementRegistry.Registration registration = StatementRegistry.track(statement, timeoutSeconds(queryConfig))) {
+
+            setParameters(statement, parameters);
+
+            try (ResultSet resultSet = execute(databaseName, statement)) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+
+        } catch (SQLException e) {
+            throw ApiException.internalError("Failed to execute count query: " + queryConfig.getName(), e);
+        }
+    }
+
+    private ResultSet execute(String databaseName, PreparedStatement statement) throws SQLException {
+        long startNanos = System.nanoTime();
+        ResultSet resultSet;
+        try {
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            connectionManager.onStatementExecuted(databaseName, System.nanoTime() - startNanos, e);
+            throw e;
+        }
+        connectionManager.onStatementExecuted(databaseName, System.nanoTime() - startNanos, null);
+        return resultSet;
+    }
+
+    private static int timeoutSeconds(QueryConfig queryConfig) {
+        return queryConfig.getTimeoutSeconds() != null ? queryConfig.getTimeoutSeconds() : 0;
+    }
+
+    private static List<Map<String, Object>> readRows(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+
+        String[] columnLabels = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnLabels[i] = metaData.getColumnLabel(i + 1);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        while (resultSet.next()) {
+            Map<String, Object> row = new LinkedHashMap<>(columnCount * 4 / 3 + 1);
+            for (int i = 0; i < columnCount; i++) {
+                row.put(columnLabels[i], resultSet.getObject(i + 1));
+            }
+            results.add(row);
+        }
+        return results;
+    }
+
+    /**
+     * Set parameters on prepared statement
+     */
+    private static void setParameters(PreparedStatement statement, List<QueryParameter> parameters)
+            throws SQLException {
+        // Sort parameters by position to ensure correct order
+        parameters.sort(Comparator.comparingInt(QueryParameter::getPosition));
+
+        for (QueryParameter param : parameters) {
+            Object typedValue = param.getTypedValue();
+            int position = param.getPosition();
+            if (typedValue == null) {
+                statement.setNull(position, getSqlType(param.getType()));
+            } else {
+                setTypedParameter(statement, position, typedValue, param.getType());
+            }
+        }
+    }
+
+    /**
+     * Set typed parameter on prepared statement
+     */
+    private static void setTypedParameter(PreparedStatement statement, int position, Object value, String type)
+            throws SQLException {
+        switch (type.toUpperCase()) {
+            case "STRING":
+                statement.setString(position, (String) value);
+                break;
+            case "INTEGER":
+                statement.setInt(position, (Integer) value);
+                break;
+            case "LONG":
+                statement.setLong(position, (Long) value);
+                break;
+            case "DECIMAL":
+                statement.setBigDecimal(position, (BigDecimal) value);
+                break;
+            case "BOOLEAN":
+                statement.setBoolean(position, (Boolean) value);
+                break;
+            case "TIMESTAMP":
+                statement.setTimestamp(position, (Timestamp) value);
+                break;
+            default:
+                // Default to string
+                statement.setString(position, value.toString());
+                break;
+        }
+    }
+
+    /**
+     * Get SQL type constant for null values
+     */
+    private static int getSqlType(String type) {
+        switch (type.toUpperCase()) {
+            case "INTEGER":
+                return Types.INTEGER;
+            case "LONG":
+                return Types.BIGINT;
+            case "DECIMAL":
+                return Types.DECIMAL;
+            case "BOOLEAN":
+                return Types.BOOLEAN;
+            case "TIMESTAMP":
+                return Types.TIMESTAMP;
+            default:
+                return Types.VARCHAR;
+        }
+    }
+}
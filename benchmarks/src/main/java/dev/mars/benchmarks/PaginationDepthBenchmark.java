@@ -0,0 +1,97 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.GenericApiService;
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledEndpoint;
+import dev.mars.generic.compiled.KeysetCursor;
+import dev.mars.generic.compiled.KeysetQuery;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.GenericResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the page at a given depth with offset pagination and with keyset pagination.
+ * Offset pages read and discard every earlier row, so their cost grows with the page number;
+ * keyset pages seek from the cursor and should cost about the same at any depth.
+ * Only the page query is measured; both modes run the same count query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationDepthBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "50", "450"})
+    public int page;
+
+    private DatabaseConnectionManager connectionManager;
+    private GenericRepository repository;
+    private CompiledEndpoint offsetEndpoint;
+    private KeysetQuery keysetQuery;
+    private Object[] offsetValues;
+    private Object[] keysetValues;
+    private KeysetCursor keysetCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(4);
+        connectionManager = new DatabaseConnectionManager(configurationManager);
+        // 10,000 trades per symbol, 500 pages of 20
+        BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 50_000);
+        repository = new GenericRepository(connectionManager);
+        GenericApiService apiService = new GenericApiService(repository, configurationManager);
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("symbol", "AAPL");
+        request.put("size", String.valueOf(PAGE_SIZE));
+
+        offsetEndpoint = configurationManager.getCompiledEndpoint(BenchmarkEnvironment.PAGED_ENDPOINT);
+        offsetValues = offsetEndpoint.getQuery().resolveValues(request, PAGE_SIZE, page * PAGE_SIZE);
+
+        // Walk the cursors to the requested page as a client would
+        keysetQuery = configurationManager.getCompiledEndpoint(BenchmarkEnvironment.KEYSET_ENDPOINT).getKeysetQuery();
+        for (int i = 0; i < page; i++) {
+            GenericResponse response = apiService.executeEndpoint(BenchmarkEnvironment.KEYSET_ENDPOINT, request);
+            request.put("cursor", response.getPagination().getNextCursor());
+        }
+        keysetCursor = keysetQuery.decodeCursor(request.get("cursor"));
+        keysetValues = keysetQuery.resolveValues(request, PAGE_SIZE + 1, keysetCursor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionManager.shutdown();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> offsetPage() {
+        return repository.executeQuery(offsetEndpoint.getQuery(), offsetValues);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> keysetPage() {
+        return repository.executeQuery(keysetQuery.queryFor(keysetCursor), keysetValues);
+    }
+}
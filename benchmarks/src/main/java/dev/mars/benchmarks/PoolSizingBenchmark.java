@@ -0,0 +1,99 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.config.DatabaseConfig;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.database.AdaptiveConcurrencyLimiter;
+import dev.mars.generic.database.CircuitBreaker;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.database.PoolSizeController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A step from no load to 16 threads running 2ms queries against a pool of 2 connections, with the pool at a fixed
+ * size and adaptively sized up to 16. There is no warmup, so the iterations show the adaptive pool's throughput
+ * rising as it converges, sampled every 200ms; the resize decisions are printed after the trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PoolSizingBenchmark {
+
+    @Param({"static", "adaptive"})
+    public String sizing;
+
+    private DatabaseConnectionManager connectionManager;
+
+    /**
+     * Stands in for a query that keeps the database busy, called from SQL as PAUSE
+     */
+    public static int pause(int millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        DatabaseConfig database = BenchmarkEnvironment.createDatabaseConfig(BenchmarkEnvironment.DATABASE_NAME, 2);
+        database.getPool().setAdaptive(new DatabaseConfig.AdaptiveSizingConfig("adaptive".equals(sizing), 2, 16));
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(
+                Map.of(BenchmarkEnvironment.DATABASE_NAME, database), BenchmarkEnvironment.createQueries(),
+                BenchmarkEnvironment.createEndpoints());
+        connectionManager = new DatabaseConnectionManager(configurationManager, false,
+                (databaseName, acquireMillis, success) -> { },
+                new PoolSizeController.Policy(200, 2.0, 0.5, 0.5, 2, 6, 100),
+                AdaptiveConcurrencyLimiter.Policy.defaults(), CircuitBreaker.Policy.defaults());
+
+        try (Connection connection = connectionManager.getConnection(BenchmarkEnvironment.DATABASE_NAME);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS PAUSE FOR \""
+                    + PoolSizingBenchmark.class.getName() + ".pause\"");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void tearDown() {
+        Map<String, Object> statistics = connectionManager.getPoolSizingStatistics();
+        System.out.println();
+        System.out.println("Pool sizes: " + statistics.get("pools"));
+        for (Map<String, Object> decision : (List<Map<String, Object>>) statistics.get("decisions")) {
+            System.out.println("  " + decision);
+        }
+        connectionManager.shutdown();
+    }
+
+    @Benchmark
+    public int query() throws SQLException {
+        try (Connection connection = connectionManager.getConnection(BenchmarkEnvironment.DATABASE_NAME);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("CALL PAUSE(2)")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
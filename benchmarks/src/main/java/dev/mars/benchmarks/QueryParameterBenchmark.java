@@ -0,0 +1,62 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.model.ParameterType;
+import dev.mars.generic.model.QueryParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of request string values to typed query parameter values
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryParameterBenchmark {
+
+    private static final Map<String, String> SAMPLE_VALUES = Map.of(
+            "STRING", "AAPL",
+            "INTEGER", "250",
+            "LONG", "9876543210",
+            "DECIMAL", "187.45",
+            "BOOLEAN", "true",
+            "TIMESTAMP", "2024-06-30T14:15:00");
+
+    @Param({"STRING", "INTEGER", "LONG", "DECIMAL", "BOOLEAN", "TIMESTAMP"})
+    public String type;
+
+    private QueryParameter parameter;
+    private ParameterType parameterType;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        value = SAMPLE_VALUES.get(type);
+        parameter = QueryParameter.of("value", value, type, 1);
+        parameterType = ParameterType.fromName(type);
+    }
+
+    @Benchmark
+    public Object getTypedValue() {
+        return parameter.getTypedValue();
+    }
+
+    @Benchmark
+    public Object parameterTypeConvert() {
+        return parameterType.convert("value", value);
+    }
+}
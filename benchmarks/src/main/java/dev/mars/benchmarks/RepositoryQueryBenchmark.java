@@ -0,0 +1,89 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledQuery;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.ColumnarData;
+import dev.mars.generic.model.QueryParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GenericRepository query execution and result mapping against in-memory H2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private DatabaseConnectionManager connectionManager;
+    private GenericRepository repository;
+    private LegacyQueryExecutor legacyExecutor;
+    private QueryConfig pagedQuery;
+    private CompiledQuery compiledPagedQuery;
+    private List<QueryParameter> pagedParameters;
+    private Object[] compiledPagedValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(4);
+        connectionManager = new DatabaseConnectionManager(configurationManager);
+        BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 10000);
+        repository = new GenericRepository(connectionManager);
+        legacyExecutor = new LegacyQueryExecutor(connectionManager);
+
+        pagedQuery = configurationManager.getQueryConfig("stock-trades-by-symbol").orElseThrow();
+        // The legacy path sorts the parameter list in place
+        pagedParameters = Arrays.asList(
+                QueryParameter.string("symbol", "MSFT", 1),
+                QueryParameter.integer("limit", rows, 2),
+                QueryParameter.integer("offset", 0, 3));
+
+        compiledPagedQuery = CompiledQuery.compile(pagedQuery);
+        compiledPagedValues = compiledPagedQuery.resolveValues(Map.of("symbol", "MSFT"), rows, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionManager.shutdown();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executePagedQuery() {
+        return legacyExecutor.executeQuery(pagedQuery, pagedParameters);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeCompiledPagedQuery() {
+        return repository.executeQuery(compiledPagedQuery, compiledPagedValues);
+    }
+
+    @Benchmark
+    public ColumnarData executeCompiledPagedQueryColumnar() {
+        return repository.executeQueryColumnar(compiledPagedQuery, compiledPagedValues);
+    }
+}
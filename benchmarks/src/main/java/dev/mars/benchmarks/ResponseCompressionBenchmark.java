@@ -0,0 +1,100 @@
+package dev.mars.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.mars.common.config.ServerConfig;
+import dev.mars.common.util.ResponseCompression;
+import dev.mars.common.util.ResponseEncoding;
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledQuery;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.GenericResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gzip cost against bytes saved on pages of stock trades, at each compression level.
+ * {@code encode} is the uncompressed baseline; {@code encodeAndGzip} is what the server does for every response it
+ * compresses on the fly, and the difference is the CPU cost of compressing. The sizes before and after are reported
+ * as the {@code payloadBytes} and {@code compressedBytes} secondary results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseCompressionBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int rows;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private ObjectWriter responseWriter;
+    private ResponseCompression compression;
+    private GenericResponse response;
+
+    /**
+     * Sizes of the page before and after compression, reported alongside the timings
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long payloadBytes;
+        public long compressedBytes;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(1);
+        DatabaseConnectionManager connectionManager = new DatabaseConnectionManager(configurationManager);
+        try {
+            BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 5000);
+            QueryConfig query = configurationManager.getQueryConfig("stock-trades-by-symbol").orElseThrow();
+            CompiledQuery compiledQuery = CompiledQuery.compile(query);
+            List<Map<String, Object>> data = new GenericRepository(connectionManager).executeQuery(compiledQuery,
+                    compiledQuery.resolveValues(Map.of("symbol", "TSLA"), rows, 0));
+            response = GenericResponse.paged(data, 0, rows, 5000);
+        } finally {
+            connectionManager.shutdown();
+        }
+
+        responseWriter = ResponseEncoding.JSON.getObjectMapper().writerFor(GenericResponse.class);
+        ServerConfig.CompressionConfig config = new ServerConfig.CompressionConfig();
+        config.setLevel(level);
+        compression = new ResponseCompression(config);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws Exception {
+        byte[] bytes = responseWriter.writeValueAsBytes(response);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzip(Payload payload) throws Exception {
+        byte[] bytes = responseWriter.writeValueAsBytes(response);
+        byte[] compressed = compression.gzip(bytes);
+        payload.payloadBytes = bytes.length;
+        payload.compressedBytes = compressed.length;
+        return compressed;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.mars.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.mars.common.util.ResponseEncoding;
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledQuery;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.GenericResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GenericResponse encoding and decoding in each negotiable response encoding, on a page of stock trades.
+ * The encoded size of the page is reported as the {@code payloadBytes} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    @Param({"JSON", "CBOR", "SMILE", "MESSAGE_PACK"})
+    public ResponseEncoding encoding;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter responseWriter;
+    private GenericResponse response;
+    private byte[] encoded;
+
+    /**
+     * Encoded size of the page, reported alongside the timings
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(1);
+        DatabaseConnectionManager connectionManager = new DatabaseConnectionManager(configurationManager);
+        try {
+            BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 5000);
+            QueryConfig query = configurationManager.getQueryConfig("stock-trades-by-symbol").orElseThrow();
+            CompiledQuery compiledQuery = CompiledQuery.compile(query);
+            List<Map<String, Object>> data = new GenericRepository(connectionManager).executeQuery(compiledQuery,
+                    compiledQuery.resolveValues(Map.of("symbol", "TSLA"), rows, 0));
+            response = GenericResponse.paged(data, 0, rows, 5000);
+        } finally {
+            connectionManager.shutdown();
+        }
+
+        objectMapper = encoding.getObjectMapper();
+        responseWriter = objectMapper.writerFor(GenericResponse.class);
+        encoded = responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws Exception {
+        byte[] bytes = responseWriter.writeValueAsBytes(response);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public JsonNode decode() throws Exception {
+        return objectMapper.readTree(encoded);
+    }
+}
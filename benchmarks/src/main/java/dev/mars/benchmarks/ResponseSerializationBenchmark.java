@@ -0,0 +1,91 @@
+package dev.mars.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.mars.common.application.BaseJavalinApplication;
+import dev.mars.generic.GenericRepository;
+import dev.mars.generic.compiled.CompiledQuery;
+import dev.mars.generic.config.EndpointConfigurationManager;
+import dev.mars.generic.config.QueryConfig;
+import dev.mars.generic.database.DatabaseConnectionManager;
+import dev.mars.generic.model.ColumnarData;
+import dev.mars.generic.model.GenericResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GenericResponse serialization through the application's Jackson mapper, with rows as objects and in columnar form.
+ * Rows are read from H2 once so that the value types match what the repository produces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter responseWriter;
+    private GenericResponse pagedResponse;
+    private GenericResponse columnarResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        EndpointConfigurationManager configurationManager = BenchmarkEnvironment.createConfigurationManager(1);
+        DatabaseConnectionManager connectionManager = new DatabaseConnectionManager(configurationManager);
+        try {
+            BenchmarkEnvironment.populateStockTrades(connectionManager, BenchmarkEnvironment.DATABASE_NAME, 5000);
+            QueryConfig query = configurationManager.getQueryConfig("stock-trades-by-symbol").orElseThrow();
+            GenericRepository repository = new GenericRepository(connectionManager);
+            CompiledQuery compiledQuery = CompiledQuery.compile(query);
+            Object[] values = compiledQuery.resolveValues(Map.of("symbol", "TSLA"), rows, 0);
+            List<Map<String, Object>> data = repository.executeQuery(compiledQuery, values);
+            pagedResponse = GenericResponse.paged(data, 0, rows, 1000);
+
+            ColumnarData columnarData = repository.executeQueryColumnar(compiledQuery, values);
+            columnarResponse = GenericResponse.paged(columnarData, 0, rows, 1000);
+        } finally {
+            connectionManager.shutdown();
+        }
+
+        objectMapper = BaseJavalinApplication.createObjectMapper();
+        responseWriter = objectMapper.writerFor(GenericResponse.class);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedResponse);
+    }
+
+    @Benchmark
+    public byte[] typedWriterAsBytes() throws Exception {
+        return responseWriter.writeValueAsBytes(pagedResponse);
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws Exception {
+        return objectMapper.writeValueAsString(pagedResponse);
+    }
+
+    @Benchmark
+    public byte[] columnarAsBytes() throws Exception {
+        return responseWriter.writeValueAsBytes(columnarResponse);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.mars.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the score change of every benchmark present in two JMH JSON result files.
+ * Usage: ResultComparison baseline.json candidate.json
+ */
+public final class ResultComparison {
+
+    private ResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultComparison <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = readResults(objectMapper, new File(args[0]));
+        Map<String, JsonNode> candidate = readResults(objectMapper, new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Candidate", "Change", "Unit");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue().path("primaryMetric");
+            double afterScore = after.path("score").asDouble();
+            String unit = after.path("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", afterScore, "new", unit);
+                continue;
+            }
+
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double change = beforeScore != 0 ? (afterScore - beforeScore) / beforeScore * 100 : 0;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%n", entry.getKey(), beforeScore, afterScore, change, unit);
+        }
+
+        for (String name : baseline.keySet()) {
+            if (!candidate.containsKey(name)) {
+                System.out.printf("%-90s %14s %14s %9s%n", name, "", "-", "removed");
+            }
+        }
+    }
+
+    /**
+     * Read results keyed by benchmark name, mode and parameters
+     */
+    private static Map<String, JsonNode> readResults(ObjectMapper objectMapper, File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : objectMapper.readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" [").append(result.path("mode").asText()).append(']');
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.mars.benchmarks;
+
+import dev.mars.generic.management.UsageStatisticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UsageStatisticsService recording under contention from many request threads.
+ * With one endpoint every thread updates the same statistics; with more endpoints the updates spread out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class UsageStatisticsBenchmark {
+
+    @Param({"1", "16"})
+    public int endpoints;
+
+    private UsageStatisticsService usageStatisticsService;
+    private String[] endpointNames;
+
+    @Setup
+    public void setUp() {
+        usageStatisticsService = new UsageStatisticsService();
+        endpointNames = new String[endpoints];
+        for (int i = 0; i < endpoints; i++) {
+            endpointNames[i] = "endpoint-" + i;
+        }
+    }
+
+    @Benchmark
+    public void recordEndpointUsage() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String endpointName = endpointNames[random.nextInt(endpointNames.length)];
+        usageStatisticsService.recordEndpointUsage(endpointName, random.nextInt(1, 200), random.nextInt(100) != 0);
+    }
+
+    @Benchmark
+    public void recordQueryUsage() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String queryName = endpointNames[random.nextInt(endpointNames.length)];
+        usageStatisticsService.recordQueryUsage(queryName, BenchmarkEnvironment.DATABASE_NAME,
+                random.nextInt(1, 200), true, random.nextInt(100));
+    }
+}
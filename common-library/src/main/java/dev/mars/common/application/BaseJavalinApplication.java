@@ -1,5 +1,6 @@
 package dev.mars.common.application;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.inject.Guice;
@@ -7,6 +8,7 @@ import com.google.inject.Injector;
 import com.google.inject.Module;
 import dev.mars.common.config.ServerConfig;
 import dev.mars.common.exception.BaseGlobalExceptionHandler;
+import dev.mars.common.util.ResponseCompression;
 import io.javalin.Javalin;
 import io.javalin.json.JavalinJackson;
 import org.slf4j.Logger;
@@ -67,6 +69,9 @@ public abstract class BaseJavalinApplication {
             // Configure Swagger/OpenAPI if needed
             configureSwagger();
 
+            // Configure catch-all routes after every other route
+            configureFallbackRoutes();
+
             // Configure exception handling
             configureExceptionHandling();
             
@@ -118,10 +123,7 @@ public abstract class BaseJavalinApplication {
         logger.info("Creating Javalin application");
 
         // Configure Jackson for JSON serialization
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        // Configure to write dates as ISO-8601 strings instead of timestamps
-        objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper objectMapper = createObjectMapper();
         
         app = Javalin.create(config -> {
             // Configure JSON mapper
@@ -142,6 +144,12 @@ public abstract class BaseJavalinApplication {
                 config.bundledPlugins.enableDevLogging();
             }
 
+            // Gzip response bodies for clients that accept it
+            config.http.customCompression(new ResponseCompression(serverConfig.getCompression()).createStrategy());
+
+            // Run request handlers on virtual threads if configured
+            config.useVirtualThreads = serverConfig.isVirtualThreads();
+
             // Set server configuration
             config.jetty.defaultHost = serverConfig.getHost();
             config.jetty.defaultPort = serverConfig.getPort();
@@ -150,6 +158,25 @@ public abstract class BaseJavalinApplication {
         logger.info("Javalin application created");
     }
 
+    /**
+     * Create the Jackson object mapper used for JSON serialization
+     * Shared with components that write JSON directly to the response stream
+     */
+    public static ObjectMapper createObjectMapper() {
+        return createObjectMapper(new JsonFactory());
+    }
+
+    /**
+     * Create a Jackson object mapper with the application's configuration for the data format of the factory
+     */
+    public static ObjectMapper createObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        // Configure to write dates as ISO-8601 strings instead of timestamps
+        objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
     /**
      * Configure Swagger/OpenAPI documentation
      * Override in subclasses if needed
@@ -169,6 +196,14 @@ public abstract class BaseJavalinApplication {
         });
     }
 
+    /**
+     * Configure routes that must be matched after every other route, such as catch-all dispatch routes
+     * Override in subclasses if needed
+     */
+    protected void configureFallbackRoutes() {
+        // Default implementation - can be overridden
+    }
+
     /**
      * Configure exception handling
      */
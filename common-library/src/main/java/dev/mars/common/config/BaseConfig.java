@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -142,6 +143,22 @@ public abstract class BaseConfig {
         return getNestedValue(path, Double.class, defaultValue);
     }
 
+    /**
+     * Get response compression settings from a section such as server.compression, with defaults for missing keys
+     */
+    @SuppressWarnings("unchecked")
+    protected ServerConfig.CompressionConfig getCompressionConfig(String path) {
+        ServerConfig.CompressionConfig compression = new ServerConfig.CompressionConfig();
+        compression.setEnabled(getBoolean(path + ".enabled", compression.isEnabled()));
+        compression.setLevel(getInteger(path + ".level", compression.getLevel()));
+        compression.setMinSize(getInteger(path + ".minSize", compression.getMinSize()));
+        List<String> mimeTypes = getNestedValue(path + ".mimeTypes", List.class, null);
+        if (mimeTypes != null) {
+            compression.setMimeTypes(mimeTypes);
+        }
+        return compression;
+    }
+
     /**
      * Get the raw configuration data
      */
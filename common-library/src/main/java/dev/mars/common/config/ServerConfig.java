@@ -1,5 +1,8 @@
 package dev.mars.common.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Common server configuration class
  * Used across all modules for consistent server settings
@@ -10,6 +13,8 @@ public class ServerConfig {
     private boolean enableCors = true;
     private boolean enableDevLogging = true;
     private boolean enableRequestLogging = true;
+    private boolean virtualThreads = false;
+    private CompressionConfig compression = new CompressionConfig();
 
     // Default constructor
     public ServerConfig() {}
@@ -70,6 +75,28 @@ public class ServerConfig {
         this.enableRequestLogging = enableRequestLogging;
     }
 
+    /**
+     * Whether request handlers run on virtual threads instead of Jetty's platform thread pool
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Get the compression of response bodies
+     */
+    public CompressionConfig getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionConfig compression) {
+        this.compression = compression;
+    }
+
     @Override
     public String toString() {
         return "ServerConfig{" +
@@ -78,6 +105,84 @@ public class ServerConfig {
                ", enableCors=" + enableCors +
                ", enableDevLogging=" + enableDevLogging +
                ", enableRequestLogging=" + enableRequestLogging +
+               ", virtualThreads=" + virtualThreads +
+               ", compression=" + compression +
                '}';
     }
+
+    /**
+     * Gzip compression of response bodies, for clients that accept it
+     */
+    public static class CompressionConfig {
+        /** Media types compressed by default: the API's text and structured formats */
+        public static final List<String> DEFAULT_MIME_TYPES = List.of(
+            "application/json", "application/x-ndjson", "text/csv", "text/plain", "text/html", "text/css",
+            "application/javascript", "application/xml", "application/cbor", "application/x-jackson-smile",
+            "application/msgpack");
+
+        private boolean enabled = true;
+        private int level = 6;
+        private int minSize = 1500;
+        private List<String> mimeTypes = new ArrayList<>(DEFAULT_MIME_TYPES);
+
+        public CompressionConfig() {}
+
+        public CompressionConfig(boolean enabled, int level, int minSize, List<String> mimeTypes) {
+            this.enabled = enabled;
+            this.level = level;
+            this.minSize = minSize;
+            this.mimeTypes = mimeTypes;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Get the gzip level, from 1 (fastest) to 9 (smallest)
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        /**
+         * Get the size in bytes below which bodies are sent uncompressed
+         */
+        public int getMinSize() {
+            return minSize;
+        }
+
+        public void setMinSize(int minSize) {
+            this.minSize = minSize;
+        }
+
+        /**
+         * Get the media types that are compressed; bodies of other types are sent as they are
+         */
+        public List<String> getMimeTypes() {
+            return mimeTypes;
+        }
+
+        public void setMimeTypes(List<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+
+        @Override
+        public String toString() {
+            return "CompressionConfig{" +
+                   "enabled=" + enabled +
+                   ", level=" + level +
+                   ", minSize=" + minSize +
+                   ", mimeTypes=" + mimeTypes +
+                   '}';
+        }
+    }
 }
@@ -57,6 +57,18 @@ public class ApiException extends RuntimeException {
         return new ApiException("FORBIDDEN", message, 403);
     }
 
+    public static ApiException tooManyRequests(String message) {
+        return new ApiException("TOO_MANY_REQUESTS", message, 429);
+    }
+
+    public static ApiException serviceUnavailable(String message) {
+        return new ApiException("SERVICE_UNAVAILABLE", message, 503);
+    }
+
+    public static ApiException gatewayTimeout(String message, Throwable cause) {
+        return new ApiException("GATEWAY_TIMEOUT", message, 504, cause);
+    }
+
     @Override
     public String toString() {
         return "ApiException{" +
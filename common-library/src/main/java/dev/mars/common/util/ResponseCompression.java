@@ -0,0 +1,150 @@
+package dev.mars.common.util;
+
+import dev.mars.common.config.ServerConfig;
+import io.javalin.compression.CompressionStrategy;
+import io.javalin.compression.Gzip;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of response bodies.
+ * The server compresses bodies on the fly through the strategy created here; responses built ahead of time, such as
+ * cached responses, can be compressed once with the same settings and sent as they are.
+ */
+public final class ResponseCompression {
+    public static final String GZIP = "gzip";
+
+    private final ServerConfig.CompressionConfig config;
+    private final List<String> mimeTypes;
+
+    public ResponseCompression(ServerConfig.CompressionConfig config) {
+        if (config.getLevel() < Deflater.BEST_SPEED || config.getLevel() > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 1 and 9: " + config.getLevel());
+        }
+        this.config = config;
+        this.mimeTypes = config.getMimeTypes() == null ? List.of() : config.getMimeTypes().stream()
+                .map(ResponseCompression::mediaType)
+                .toList();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Get the size in bytes below which bodies are sent uncompressed
+     */
+    public int getMinSize() {
+        return config.getMinSize();
+    }
+
+    /**
+     * Create the server's compression strategy: gzip at the configured level for bodies of an allowed media type
+     * whose first write reaches the minimum size
+     */
+    public CompressionStrategy createStrategy() {
+        if (!config.isEnabled()) {
+            return CompressionStrategy.NONE;
+        }
+        CompressionStrategy strategy = new CompressionStrategy(null, new Gzip(config.getLevel()));
+        strategy.setDefaultMinSizeForCompression(config.getMinSize());
+        if (!mimeTypes.isEmpty()) {
+            // Javalin compresses allowed types and any type matching no exclusion; excluding every type that has
+            // a slash turns the allowed types into an allow-list
+            strategy.setAllowedMimeTypes(new AllowedMediaTypes());
+            strategy.setExcludedMimeTypes(List.of("/"));
+        }
+        return strategy;
+    }
+
+    /**
+     * Check whether bodies of a content type are compressed. Parameters such as the charset are ignored.
+     */
+    public boolean isCompressible(String contentType) {
+        if (!config.isEnabled() || contentType == null) {
+            return false;
+        }
+        return mimeTypes.isEmpty() || mimeTypes.contains(mediaType(contentType));
+    }
+
+    /**
+     * Check whether an Accept-Encoding header accepts gzip
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if ((name.equals(GZIP) || name.equals("x-gzip") || name.equals("*")) && !refused(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gzip a body at the configured level
+     */
+    public byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(config.getLevel());
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String mediaType(String contentType) {
+        int parameters = contentType.indexOf(';');
+        String mediaType = parameters < 0 ? contentType : contentType.substring(0, parameters);
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean refused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The allowed media types as Javalin looks them up: by the response's full content type, charset included
+     */
+    private final class AllowedMediaTypes extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            return mimeTypes.get(index);
+        }
+
+        @Override
+        public int size() {
+            return mimeTypes.size();
+        }
+
+        @Override
+        public boolean contains(Object contentType) {
+            return contentType instanceof String type && isCompressible(type);
+        }
+    }
+}
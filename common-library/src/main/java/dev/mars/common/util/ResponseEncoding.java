@@ -0,0 +1,173 @@
+package dev.mars.common.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.mars.common.application.BaseJavalinApplication;
+import dev.mars.common.exception.ApiException;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Encodings of response bodies, negotiated from the request's Accept header.
+ * JSON is the default; clients that parse large responses can ask for one of the binary formats instead and get
+ * the same document, with the same fields, in fewer bytes that are cheaper to decode.
+ */
+public enum ResponseEncoding {
+    JSON("application/json", new JsonFactory()),
+    CBOR("application/cbor", new CBORFactory()),
+    SMILE("application/x-jackson-smile", new SmileFactory()),
+    MESSAGE_PACK("application/msgpack", new DecimalMessagePackFactory(), "application/x-msgpack", "application/vnd.msgpack");
+
+    private final String mediaType;
+    private final List<String> acceptedTypes;
+    private final ObjectMapper objectMapper;
+
+    ResponseEncoding(String mediaType, JsonFactory factory, String... aliases) {
+        this.mediaType = mediaType;
+        this.acceptedTypes = Stream.concat(Stream.of(mediaType), Stream.of(aliases)).toList();
+        this.objectMapper = BaseJavalinApplication.createObjectMapper(factory);
+    }
+
+    /**
+     * Get the content type of responses in this encoding
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get the object mapper writing and reading this encoding, configured like the application's JSON mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Check whether the encoding is not JSON
+     */
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Choose the encoding with the highest quality in an Accept header. Wildcards select JSON; so do headers
+     * naming no supported type, so that existing clients keep getting JSON whatever they send.
+     */
+    public static ResponseEncoding negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        String header = accept.toLowerCase(Locale.ROOT);
+        // Almost every request asks for JSON or anything; skip parsing unless a binary type is named
+        if (!header.contains("cbor") && !header.contains("smile") && !header.contains("msgpack")) {
+            return JSON;
+        }
+
+        ResponseEncoding best = JSON;
+        double bestQuality = 0;
+        for (String range : header.split(",")) {
+            String[] parts = range.split(";");
+            ResponseEncoding encoding = forMediaRange(parts[0].trim());
+            double quality = quality(parts);
+            // The first range listed wins between equal qualities
+            if (encoding != null && quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Choose the encoding of a request's response
+     */
+    public static ResponseEncoding negotiate(Context ctx) {
+        return negotiate(ctx.header(Header.ACCEPT));
+    }
+
+    /**
+     * Write a response body in the encoding the request asks for
+     */
+    public static void write(Context ctx, Object body) {
+        ctx.header(Header.VARY, Header.ACCEPT);
+        negotiate(ctx).render(ctx, body);
+    }
+
+    /**
+     * Write a response body in this encoding; JSON goes through the application's JSON mapper
+     */
+    public void render(Context ctx, Object body) {
+        if (this == JSON) {
+            ctx.json(body);
+            return;
+        }
+        try {
+            ctx.contentType(mediaType).result(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw ApiException.internalError("Failed to encode response as " + mediaType, e);
+        }
+    }
+
+    private static ResponseEncoding forMediaRange(String mediaRange) {
+        if (mediaRange.equals("*/*") || mediaRange.equals("application/*")) {
+            return JSON;
+        }
+        for (ResponseEncoding encoding : values()) {
+            if (encoding.acceptedTypes.contains(mediaRange)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MessagePack has no decimal type. Its generator packs a decimal as a double only after failing to pack it as an
+     * integer, throwing and catching an exception for every value with a fraction; this writes decimals as integers or
+     * doubles up front, as a JSON client reading the number would.
+     */
+    private static final class DecimalMessagePackFactory extends MessagePackFactory {
+        @Override
+        public JsonGenerator createGenerator(OutputStream out, JsonEncoding enc) throws IOException {
+            return new JsonGeneratorDelegate(super.createGenerator(out, enc), true) {
+                @Override
+                public void writeNumber(BigDecimal value) throws IOException {
+                    if (value.scale() == 0 && value.unscaledValue().bitLength() < Long.SIZE) {
+                        delegate.writeNumber(value.longValue());
+                    } else if (value.scale() > 0) {
+                        delegate.writeNumber(value.doubleValue());
+                    } else {
+                        delegate.writeNumber(value);
+                    }
+                }
+            };
+        }
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
@@ -14,6 +14,9 @@ module dev.mars.common {
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.datatype.jsr310;
     requires com.fasterxml.jackson.dataformat.yaml;
+    requires com.fasterxml.jackson.dataformat.cbor;
+    requires com.fasterxml.jackson.dataformat.smile;
+    requires jackson.dataformat.msgpack;
     requires com.h2database;
     requires com.zaxxer.hikari;
     requires com.google.guice;
@@ -77,6 +77,35 @@ class ApiExceptionTest {
         assertThat(exception.getStatusCode()).isEqualTo(409);
     }
 
+    @Test
+    void shouldCreateTooManyRequestsException() {
+        ApiException exception = ApiException.tooManyRequests("Rate limit exceeded");
+
+        assertThat(exception.getErrorCode()).isEqualTo("TOO_MANY_REQUESTS");
+        assertThat(exception.getMessage()).isEqualTo("Rate limit exceeded");
+        assertThat(exception.getStatusCode()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldCreateServiceUnavailableException() {
+        ApiException exception = ApiException.serviceUnavailable("Too many requests in progress");
+
+        assertThat(exception.getErrorCode()).isEqualTo("SERVICE_UNAVAILABLE");
+        assertThat(exception.getMessage()).isEqualTo("Too many requests in progress");
+        assertThat(exception.getStatusCode()).isEqualTo(503);
+    }
+
+    @Test
+    void shouldCreateGatewayTimeoutException() {
+        Exception cause = new java.sql.SQLTimeoutException("Statement cancelled");
+        ApiException exception = ApiException.gatewayTimeout("Query timed out", cause);
+
+        assertThat(exception.getErrorCode()).isEqualTo("GATEWAY_TIMEOUT");
+        assertThat(exception.getMessage()).isEqualTo("Query timed out");
+        assertThat(exception.getStatusCode()).isEqualTo(504);
+        assertThat(exception.getCause()).isSameAs(cause);
+    }
+
     @Test
     void shouldCreateUnauthorizedException() {
         ApiException exception = ApiException.unauthorized("Authentication required");
@@ -0,0 +1,71 @@
+package dev.mars.common.util;
+
+import dev.mars.common.config.ServerConfig;
+import io.javalin.compression.CompressionStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ResponseCompression
+ */
+class ResponseCompressionTest {
+
+    @Test
+    void shouldDetectGzipInAcceptEncoding() {
+        assertThat(ResponseCompression.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseCompression.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseCompression.acceptsGzip("*")).isTrue();
+        assertThat(ResponseCompression.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCompression.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseCompression.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void shouldCompressOnlyAllowedMediaTypes() {
+        ResponseCompression compression = new ResponseCompression(
+            new ServerConfig.CompressionConfig(true, 6, 1500, List.of("application/json", "Text/CSV")));
+
+        assertThat(compression.isCompressible("application/json")).isTrue();
+        assertThat(compression.isCompressible("text/csv; charset=utf-8")).isTrue();
+        assertThat(compression.isCompressible("application/octet-stream")).isFalse();
+        assertThat(compression.isCompressible(null)).isFalse();
+    }
+
+    @Test
+    void shouldConfigureServerStrategyAsAllowList() {
+        ResponseCompression compression = new ResponseCompression(
+            new ServerConfig.CompressionConfig(true, 1, 512, List.of("application/json")));
+
+        CompressionStrategy strategy = compression.createStrategy();
+
+        assertThat(strategy.getDefaultMinSizeForCompression()).isEqualTo(512);
+        assertThat(strategy.getCompressors()).extracting(compressor -> compressor.encoding()).containsExactly("gzip");
+        // Javalin looks up the response's content type with List.contains
+        assertThat(strategy.getAllowedMimeTypes().contains("application/json;charset=utf-8")).isTrue();
+        assertThat(strategy.getAllowedMimeTypes().contains("text/html")).isFalse();
+        assertThat(strategy.getExcludedMimeTypes()).containsExactly("/");
+        assertThat(new ResponseCompression(new ServerConfig.CompressionConfig(false, 6, 1500, List.of()))
+            .createStrategy()).isSameAs(CompressionStrategy.NONE);
+    }
+
+    @Test
+    void shouldGzipAtConfiguredLevel() throws Exception {
+        byte[] body = "{\"symbol\":\"AAPL\"}".repeat(200).getBytes(StandardCharsets.UTF_8);
+        byte[] fastest = new ResponseCompression(new ServerConfig.CompressionConfig(true, 1, 0, List.of())).gzip(body);
+        byte[] smallest = new ResponseCompression(new ServerConfig.CompressionConfig(true, 9, 0, List.of())).gzip(body);
+
+        assertThat(smallest.length).isLessThanOrEqualTo(fastest.length).isLessThan(body.length / 10);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(smallest))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(body);
+        }
+        assertThatThrownBy(() -> new ResponseCompression(new ServerConfig.CompressionConfig(true, 10, 0, List.of())))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
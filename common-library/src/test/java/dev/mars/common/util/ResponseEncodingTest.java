@@ -0,0 +1,83 @@
+package dev.mars.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.mars.common.dto.PagedResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ResponseEncoding
+ */
+class ResponseEncodingTest {
+
+    @Test
+    void shouldDefaultToJson() {
+        assertThat(ResponseEncoding.negotiate((String) null)).isEqualTo(ResponseEncoding.JSON);
+        assertThat(ResponseEncoding.negotiate("")).isEqualTo(ResponseEncoding.JSON);
+        assertThat(ResponseEncoding.negotiate("*/*")).isEqualTo(ResponseEncoding.JSON);
+        assertThat(ResponseEncoding.negotiate("text/html,application/xhtml+xml")).isEqualTo(ResponseEncoding.JSON);
+    }
+
+    @Test
+    void shouldSelectRequestedBinaryEncoding() {
+        assertThat(ResponseEncoding.negotiate("application/cbor")).isEqualTo(ResponseEncoding.CBOR);
+        assertThat(ResponseEncoding.negotiate("application/x-jackson-smile")).isEqualTo(ResponseEncoding.SMILE);
+        assertThat(ResponseEncoding.negotiate("application/msgpack")).isEqualTo(ResponseEncoding.MESSAGE_PACK);
+        assertThat(ResponseEncoding.negotiate("Application/X-MsgPack")).isEqualTo(ResponseEncoding.MESSAGE_PACK);
+    }
+
+    @Test
+    void shouldSelectHighestQualityThenFirstListed() {
+        assertThat(ResponseEncoding.negotiate("application/json;q=0.5, application/cbor"))
+            .isEqualTo(ResponseEncoding.CBOR);
+        assertThat(ResponseEncoding.negotiate("application/cbor;q=0.8, application/json"))
+            .isEqualTo(ResponseEncoding.JSON);
+        assertThat(ResponseEncoding.negotiate("application/x-jackson-smile, application/cbor"))
+            .isEqualTo(ResponseEncoding.SMILE);
+        assertThat(ResponseEncoding.negotiate("application/cbor;q=0")).isEqualTo(ResponseEncoding.JSON);
+    }
+
+    @Test
+    void shouldRoundTripTheSameDocumentInFewerBytes() throws Exception {
+        List<Map<String, Object>> rows = List.of(
+            Map.of("symbol", "AAPL", "quantity", 100, "trade_date", LocalDateTime.of(2024, 1, 2, 9, 30)),
+            Map.of("symbol", "MSFT", "quantity", 250, "trade_date", LocalDateTime.of(2024, 1, 2, 9, 31)));
+        PagedResponse<Map<String, Object>> response = new PagedResponse<>(rows, 0, 2, 2);
+        byte[] json = ResponseEncoding.JSON.getObjectMapper().writeValueAsBytes(response);
+
+        for (ResponseEncoding encoding : ResponseEncoding.values()) {
+            if (!encoding.isBinary()) {
+                continue;
+            }
+            byte[] encoded = encoding.getObjectMapper().writeValueAsBytes(response);
+
+            assertThat(encoded.length).as(encoding.name()).isLessThan(json.length);
+            assertThat(encoding.getObjectMapper().readTree(encoded))
+                .as(encoding.name())
+                .isEqualTo(ResponseEncoding.JSON.getObjectMapper().readTree(json));
+        }
+    }
+
+    @Test
+    void shouldWriteMessagePackDecimalsAsNumbers() throws Exception {
+        Map<String, Object> row = Map.of(
+            "price", new BigDecimal("150.25"),
+            "quantity", new BigDecimal("420"),
+            "precise", new BigDecimal("0.12345678901234567890123"));
+        ObjectMapper objectMapper = ResponseEncoding.MESSAGE_PACK.getObjectMapper();
+
+        JsonNode decoded = objectMapper.readTree(objectMapper.writeValueAsBytes(row));
+
+        assertThat(decoded.get("price").doubleValue()).isEqualTo(150.25);
+        assertThat(decoded.get("quantity").isIntegralNumber()).isTrue();
+        assertThat(decoded.get("quantity").longValue()).isEqualTo(420L);
+        assertThat(decoded.get("precise").doubleValue()).isEqualTo(0.12345678901234568);
+    }
+}